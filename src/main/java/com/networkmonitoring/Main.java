@@ -55,7 +55,7 @@ public class Main {
             // Shutdown hook will handle stopping the monitor
         } finally {
              // Ensure monitor is stopped if loop exits unexpectedly (though shutdown hook is preferred)
-            if (!networkMonitor.scheduler.isShutdown()) {
+            if (!networkMonitor.isShutdown()) {
                  networkMonitor.stopMonitoring();
             }
         }
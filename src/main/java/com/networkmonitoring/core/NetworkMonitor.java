@@ -73,4 +73,8 @@ public class NetworkMonitor {
             logger.close();
         }
     }
+
+    public boolean isShutdown() {
+        return scheduler.isShutdown();
+    }
 }
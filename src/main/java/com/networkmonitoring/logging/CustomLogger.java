@@ -13,6 +13,7 @@ import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
 
 /**
  * Custom logger with log rotation capabilities.
@@ -23,6 +24,7 @@ public class CustomLogger {
     private Path currentLogFilePath;
     private BufferedWriter writer;
     private final ReentrantLock lock = new ReentrantLock(); // For thread-safety
+    private volatile LongConsumer rotationListener; // Optional, notified with each rotation's duration in nanoseconds
 
     public CustomLogger(LogRotationConfig config) {
         this.config = config;
@@ -72,7 +74,18 @@ public class CustomLogger {
 
         long fileSize = Files.size(currentLogFilePath);
         if (fileSize >= config.getMaxFileSizeBytes()) {
+            long rotationStart = System.nanoTime();
             rotate();
+            LongConsumer listener = rotationListener;
+            if (listener != null) {
+                // Invoked while the lock is still held, so the rotated file is in a stable state
+                try {
+                    listener.accept(System.nanoTime() - rotationStart);
+                } catch (RuntimeException e) {
+                    // A faulty listener must not cost the entry being logged
+                    System.err.println("Error in rotation listener: " + e.getMessage());
+                }
+            }
         }
     }
 
@@ -133,6 +146,14 @@ public class CustomLogger {
         log(LogLevel.DEBUG, message, source);
     }
 
+    /**
+     * Registers a callback that receives the duration (in nanoseconds) of every rotation.
+     * The callback runs on the logging thread while the logger's lock is held, so it should be quick.
+     */
+    public void setRotationListener(LongConsumer rotationListener) {
+        this.rotationListener = rotationListener;
+    }
+
     public void close() {
         lock.lock();
         try {
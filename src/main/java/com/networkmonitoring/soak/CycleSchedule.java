@@ -0,0 +1,83 @@
+package com.networkmonitoring.soak;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mirrors the fixed-rate schedule NetworkMonitor runs collection cycles on, so latencies can be measured from when
+ * a cycle was due rather than from when it actually ran. Without this, a scheduler thread that falls behind
+ * only delays the next cycle and that backlog never shows up in the percentiles (coordinated omission).
+ */
+class CycleSchedule {
+    private final long periodNanos;
+    private final long cycles;
+    private final LatencyHistogram startLag = new LatencyHistogram();
+    private final AtomicLong lastStartedCycle = new AtomicLong(-1);
+    private final AtomicLong lateCycles = new AtomicLong();
+    private volatile long firstDueNanos;
+    private volatile boolean stopped;
+
+    /**
+     * @param periodNanos collection period NetworkMonitor was started with
+     * @param cycles      number of cycles that belong to the run
+     */
+    CycleSchedule(long periodNanos, long cycles) {
+        this.periodNanos = periodNanos;
+        this.cycles = cycles;
+    }
+
+    /** Sets the time the first cycle is due; call right before starting the monitor. */
+    void start(long firstDueNanos) {
+        this.firstDueNanos = firstDueNanos;
+    }
+
+    void stop() {
+        stopped = true;
+    }
+
+    boolean isStopped() {
+        return stopped;
+    }
+
+    boolean isInRun(long cycle) {
+        return cycle < cycles;
+    }
+
+    long getFirstDueNanos() {
+        return firstDueNanos;
+    }
+
+    /** End of the run window, i.e. when the first cycle that isn't part of the run is due. */
+    long getEndNanos() {
+        return firstDueNanos + cycles * periodNanos;
+    }
+
+    long dueNanos(long cycle) {
+        return firstDueNanos + cycle * periodNanos;
+    }
+
+    /**
+     * Called by every collector as it starts its share of a cycle; only the first call per cycle records the start lag.
+     */
+    void cycleStarted(long cycle, long nowNanos) {
+        long previous = lastStartedCycle.getAndAccumulate(cycle, Math::max);
+        if (previous < cycle) {
+            long lag = nowNanos - dueNanos(cycle);
+            startLag.record(lag);
+            if (lag >= periodNanos) {
+                lateCycles.incrementAndGet(); // The previous cycle overran into this one's slot
+            }
+        }
+    }
+
+    LatencyHistogram getStartLag() {
+        return startLag;
+    }
+
+    long getLateCycles() {
+        return lateCycles.get();
+    }
+
+    long getStartedCycles() {
+        return lastStartedCycle.get() + 1;
+    }
+}
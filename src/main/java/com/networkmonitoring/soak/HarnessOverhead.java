@@ -0,0 +1,42 @@
+package com.networkmonitoring.soak;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time the logging thread spends in the harness's own rotation listener.
+ * The listener runs inside the logger's lock, so collectors subtract this from the latencies they record.
+ */
+class HarnessOverhead {
+    // Per thread: {cycle seen last, running total at that cycle's start, running total}
+    private final ThreadLocal<long[]> perThread = ThreadLocal.withInitial(() -> new long[] {-1, 0, 0});
+    private final AtomicLong total = new AtomicLong();
+
+    void add(long nanos) {
+        perThread.get()[2] += nanos;
+        total.addAndGet(nanos);
+    }
+
+    /** Running total on the calling thread. */
+    long onThisThread() {
+        return perThread.get()[2];
+    }
+
+    /** Marks the start of a cycle; only the first call per cycle takes the snapshot. */
+    void cycleStarted(long cycle) {
+        long[] state = perThread.get();
+        if (state[0] != cycle) {
+            state[0] = cycle;
+            state[1] = state[2];
+        }
+    }
+
+    /** Overhead on the calling thread since the current cycle started. */
+    long sinceCycleStart() {
+        long[] state = perThread.get();
+        return state[2] - state[1];
+    }
+
+    long getTotal() {
+        return total.get();
+    }
+}
@@ -0,0 +1,108 @@
+package com.networkmonitoring.soak;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+
+/**
+ * Checks written log lines against the number of entries each {@link SyntheticCollector} emitted.
+ * Every sequence number from 0 up to a collector's emitted count must appear exactly once;
+ * anything missing is lost, anything seen again is duplicated.
+ */
+class SequenceVerifier {
+    private static final String LINE_MARKER = " - " + SyntheticCollector.getSequencePrefix();
+
+    private final long[] emittedCounts;
+    private final BitSet[] seen;
+    private long written;
+    private long duplicated;
+    private long unexpected;
+    private long malformed;
+    private int filesRead;
+
+    /**
+     * @param emittedCounts entries emitted per collector, indexed by collector id; each must fit in an int
+     */
+    SequenceVerifier(long[] emittedCounts) {
+        this.emittedCounts = emittedCounts.clone();
+        this.seen = new BitSet[emittedCounts.length];
+        for (int i = 0; i < emittedCounts.length; i++) {
+            if (emittedCounts[i] > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Collector " + i + " emitted more entries than can be verified: " + emittedCounts[i]);
+            }
+            seen[i] = new BitSet();
+        }
+    }
+
+    void scan(Path file) throws IOException {
+        filesRead++;
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                accept(line);
+            }
+        }
+    }
+
+    void accept(String line) {
+        int start = line.indexOf(LINE_MARKER);
+        if (start < 0) {
+            return; // Not written by a synthetic collector, e.g. NetworkMonitor's own lines
+        }
+        start += LINE_MARKER.length();
+        int colon = line.indexOf(':', start);
+        int end = line.indexOf(' ', colon + 1);
+        int collectorId;
+        long sequence;
+        try {
+            collectorId = Integer.parseInt(line.substring(start, colon));
+            sequence = Long.parseLong(line.substring(colon + 1, end < 0 ? line.length() : end));
+        } catch (RuntimeException e) {
+            malformed++;
+            return;
+        }
+
+        if (collectorId < 0 || collectorId >= seen.length || sequence < 0 || sequence >= emittedCounts[collectorId]) {
+            unexpected++;
+        } else if (seen[collectorId].get((int) sequence)) {
+            duplicated++;
+        } else {
+            seen[collectorId].set((int) sequence);
+            written++;
+        }
+    }
+
+    long getEmitted() {
+        long total = 0;
+        for (long count : emittedCounts) {
+            total += count;
+        }
+        return total;
+    }
+
+    long getWritten() {
+        return written;
+    }
+
+    long getLost() {
+        return getEmitted() - written;
+    }
+
+    long getDuplicated() {
+        return duplicated;
+    }
+
+    long getUnexpected() {
+        return unexpected;
+    }
+
+    long getMalformed() {
+        return malformed;
+    }
+
+    int getFilesRead() {
+        return filesRead;
+    }
+}
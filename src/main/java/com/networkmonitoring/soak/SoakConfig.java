@@ -0,0 +1,120 @@
+package com.networkmonitoring.soak;
+
+/**
+ * Configuration for a soak/load-test run.
+ * Values are read from {@code key=value} command line arguments; anything omitted falls back to the defaults.
+ */
+public class SoakConfig {
+    private final int collectors;
+    private final long eventsPerSecond;
+    private final int messageBytes;
+    private final long durationSeconds;
+    private final long maxFileSizeBytes;
+    private final int maxBackupFiles;
+    private final String logDirectory;
+    private final long reportIntervalSeconds;
+
+    public static final int DEFAULT_COLLECTORS = 8;
+    public static final long DEFAULT_EVENTS_PER_SECOND = 2000;
+    public static final int DEFAULT_MESSAGE_BYTES = 200; // Roughly the size of a formatted metrics line
+    public static final long DEFAULT_DURATION_SECONDS = 300; // 5 minutes
+    public static final long DEFAULT_MAX_FILE_SIZE_BYTES = 256 * 1024; // 256KB, to force frequent rotation
+    public static final int DEFAULT_MAX_BACKUP_FILES = 5;
+    public static final String DEFAULT_LOG_DIRECTORY = "soak-logs";
+    public static final long DEFAULT_REPORT_INTERVAL_SECONDS = 60;
+
+    public SoakConfig(int collectors, long eventsPerSecond, int messageBytes, long durationSeconds,
+                      long maxFileSizeBytes, int maxBackupFiles, String logDirectory, long reportIntervalSeconds) {
+        this.collectors = (collectors <= 0) ? DEFAULT_COLLECTORS : collectors;
+        this.eventsPerSecond = (eventsPerSecond <= 0) ? DEFAULT_EVENTS_PER_SECOND : eventsPerSecond;
+        this.messageBytes = (messageBytes <= 0) ? DEFAULT_MESSAGE_BYTES : messageBytes;
+        this.durationSeconds = (durationSeconds <= 0) ? DEFAULT_DURATION_SECONDS : durationSeconds;
+        this.maxFileSizeBytes = (maxFileSizeBytes <= 0) ? DEFAULT_MAX_FILE_SIZE_BYTES : maxFileSizeBytes;
+        this.maxBackupFiles = (maxBackupFiles < 0) ? DEFAULT_MAX_BACKUP_FILES : maxBackupFiles;
+        this.logDirectory = (logDirectory == null || logDirectory.trim().isEmpty()) ? DEFAULT_LOG_DIRECTORY : logDirectory;
+        this.reportIntervalSeconds = (reportIntervalSeconds <= 0) ? DEFAULT_REPORT_INTERVAL_SECONDS : reportIntervalSeconds;
+
+        // Sequence numbers are verified with a BitSet per collector, which is indexed by int
+        long eventsPerCollector = (this.eventsPerSecond + this.collectors - 1) / this.collectors;
+        if (eventsPerCollector > Integer.MAX_VALUE / this.durationSeconds) {
+            throw new IllegalArgumentException("A single collector would emit more than " + Integer.MAX_VALUE
+                                               + " entries; add collectors or shorten the duration");
+        }
+    }
+
+    /**
+     * Parses arguments such as {@code collectors=16 rate=5000 duration=7200 maxFileBytes=65536}.
+     */
+    public static SoakConfig fromArgs(String[] args) {
+        int collectors = DEFAULT_COLLECTORS;
+        long eventsPerSecond = DEFAULT_EVENTS_PER_SECOND;
+        int messageBytes = DEFAULT_MESSAGE_BYTES;
+        long durationSeconds = DEFAULT_DURATION_SECONDS;
+        long maxFileSizeBytes = DEFAULT_MAX_FILE_SIZE_BYTES;
+        int maxBackupFiles = DEFAULT_MAX_BACKUP_FILES;
+        String logDirectory = DEFAULT_LOG_DIRECTORY;
+        long reportIntervalSeconds = DEFAULT_REPORT_INTERVAL_SECONDS;
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value argument but got: " + arg);
+            }
+            String key = arg.substring(0, separator).trim();
+            String value = arg.substring(separator + 1).trim();
+            switch (key) {
+                case "collectors": collectors = Integer.parseInt(value); break;
+                case "rate": eventsPerSecond = Long.parseLong(value); break;
+                case "messageBytes": messageBytes = Integer.parseInt(value); break;
+                case "duration": durationSeconds = Long.parseLong(value); break;
+                case "maxFileBytes": maxFileSizeBytes = Long.parseLong(value); break;
+                case "backups": maxBackupFiles = Integer.parseInt(value); break;
+                case "dir": logDirectory = value; break;
+                case "reportInterval": reportIntervalSeconds = Long.parseLong(value); break;
+                default: throw new IllegalArgumentException("Unknown soak argument: " + key);
+            }
+        }
+        return new SoakConfig(collectors, eventsPerSecond, messageBytes, durationSeconds,
+                              maxFileSizeBytes, maxBackupFiles, logDirectory, reportIntervalSeconds);
+    }
+
+    public int getCollectors() {
+        return collectors;
+    }
+
+    /** Total target rate across all collectors. */
+    public long getEventsPerSecond() {
+        return eventsPerSecond;
+    }
+
+    public int getMessageBytes() {
+        return messageBytes;
+    }
+
+    public long getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public long getMaxFileSizeBytes() {
+        return maxFileSizeBytes;
+    }
+
+    public int getMaxBackupFiles() {
+        return maxBackupFiles;
+    }
+
+    public String getLogDirectory() {
+        return logDirectory;
+    }
+
+    public long getReportIntervalSeconds() {
+        return reportIntervalSeconds;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("collectors=%d rate=%d/s messageBytes=%d duration=%ds maxFileBytes=%d backups=%d dir=%s",
+                             collectors, eventsPerSecond, messageBytes, durationSeconds,
+                             maxFileSizeBytes, maxBackupFiles, logDirectory);
+    }
+}
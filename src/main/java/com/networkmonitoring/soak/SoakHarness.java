@@ -0,0 +1,257 @@
+package com.networkmonitoring.soak;
+
+import com.networkmonitoring.config.AppConfig;
+import com.networkmonitoring.config.LogRotationConfig;
+import com.networkmonitoring.core.NetworkMonitor;
+import com.networkmonitoring.logging.CustomLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Soak/load-test entry point for {@link NetworkMonitor} and {@link CustomLogger}.
+ * Registers synthetic collectors that log at a fixed total rate for a configurable duration, using a small
+ * maximum file size so rotation happens often, then reports throughput, enqueue-to-disk latency,
+ * rotation pauses, GC time, heap high-water mark and lost/duplicated entries.
+ *
+ * <p>Run with e.g. {@code java -cp target/classes com.networkmonitoring.soak.SoakHarness collectors=16 rate=5000 duration=7200}.
+ * See {@link SoakConfig#fromArgs(String[])} for the accepted arguments.
+ */
+public class SoakHarness {
+    private static final String LOG_FILE_NAME = "soak.log";
+    private static final String ARCHIVE_DIRECTORY = "archive";
+    // NetworkMonitor schedules in whole seconds, so each collector emits its share of the rate once per second
+    private static final long COLLECTION_PERIOD_SECONDS = 1;
+    private static final long HEAP_SAMPLE_INTERVAL_MILLIS = 100;
+
+    private final SoakConfig config;
+    private final LatencyHistogram enqueueToDisk = new LatencyHistogram();
+    private final LatencyHistogram intervalEnqueueToDisk = new LatencyHistogram();
+    private final LatencyHistogram serviceTime = new LatencyHistogram();
+    private final LatencyHistogram rotationPauses = new LatencyHistogram();
+    private final HarnessOverhead overhead = new HarnessOverhead();
+    private final AtomicLong archivedFiles = new AtomicLong();
+    private final AtomicLong archiveFailures = new AtomicLong();
+    private final AtomicLong heapHighWater = new AtomicLong();
+    private final List<SyntheticCollector> collectors = new ArrayList<>();
+    private final CycleSchedule schedule;
+
+    public SoakHarness(SoakConfig config) {
+        this.config = config;
+        this.schedule = new CycleSchedule(TimeUnit.SECONDS.toNanos(COLLECTION_PERIOD_SECONDS), config.getDurationSeconds());
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        SoakConfig config = SoakConfig.fromArgs(args);
+        System.out.println("Starting soak run: " + config);
+        new SoakHarness(config).run();
+    }
+
+    public void run() throws IOException, InterruptedException {
+        Path logDir = Paths.get(config.getLogDirectory());
+        Path archiveDir = logDir.resolve(ARCHIVE_DIRECTORY);
+        prepareDirectories(logDir, archiveDir);
+
+        // LogRotationConfig only takes whole megabytes, so override the byte limit to force frequent rotation
+        LogRotationConfig rotationConfig = new LogRotationConfig(LOG_FILE_NAME, 1, config.getMaxBackupFiles(), logDir.toString()) {
+            @Override
+            public long getMaxFileSizeBytes() {
+                return config.getMaxFileSizeBytes();
+            }
+        };
+        CustomLogger logger = new CustomLogger(rotationConfig);
+        logger.setRotationListener(nanos -> {
+            long listenerStart = System.nanoTime();
+            rotationPauses.record(nanos);
+            linkRotatedFile(logDir, archiveDir);
+            overhead.add(System.nanoTime() - listenerStart);
+        });
+
+        NetworkMonitor networkMonitor = new NetworkMonitor(new AppConfig(rotationConfig), logger);
+        long baseRate = config.getEventsPerSecond() / config.getCollectors();
+        long remainder = config.getEventsPerSecond() % config.getCollectors();
+        for (int i = 0; i < config.getCollectors(); i++) {
+            long eventsPerCycle = baseRate + (i < remainder ? 1 : 0);
+            SyntheticCollector collector = new SyntheticCollector(i, eventsPerCycle, config.getMessageBytes(), schedule, overhead,
+                                                                  enqueueToDisk, intervalEnqueueToDisk, serviceTime);
+            collectors.add(collector);
+            networkMonitor.addDataCollector(collector);
+        }
+
+        long gcCountBefore = totalGcCount();
+        long gcTimeBefore = totalGcTimeMillis();
+
+        // Start one period out so the run window is exactly durationSeconds cycles, measured from the first one
+        long firstDue = System.nanoTime() + TimeUnit.SECONDS.toNanos(COLLECTION_PERIOD_SECONDS);
+        schedule.start(firstDue);
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        AtomicLong lastReportedCount = new AtomicLong();
+        long reportIntervalMillis = TimeUnit.SECONDS.toMillis(config.getReportIntervalSeconds());
+        reporter.scheduleAtFixedRate(() -> reportInterval(firstDue, lastReportedCount),
+                                     TimeUnit.SECONDS.toMillis(COLLECTION_PERIOD_SECONDS) + reportIntervalMillis,
+                                     reportIntervalMillis, TimeUnit.MILLISECONDS);
+        reporter.scheduleAtFixedRate(this::sampleHeap, 0, HEAP_SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+        networkMonitor.startMonitoring(COLLECTION_PERIOD_SECONDS, COLLECTION_PERIOD_SECONDS);
+        try {
+            TimeUnit.NANOSECONDS.sleep(schedule.getEndNanos() - System.nanoTime());
+        } finally {
+            schedule.stop();
+            long elapsedNanos = System.nanoTime() - firstDue;
+            reporter.shutdownNow();
+            networkMonitor.stopMonitoring(); // Also closes the logger
+            sampleHeap();
+            printReport(elapsedNanos, totalGcCount() - gcCountBefore, totalGcTimeMillis() - gcTimeBefore,
+                        heapHighWater.get(), verify(logDir, archiveDir));
+        }
+    }
+
+    private void prepareDirectories(Path logDir, Path archiveDir) throws IOException {
+        Files.createDirectories(archiveDir);
+        // Only remove files left over by a previous soak run, never anything else in the directory
+        for (Path dir : new Path[] {logDir, archiveDir}) {
+            File[] leftovers = dir.toFile().listFiles((d, name) -> name.startsWith(LOG_FILE_NAME));
+            if (leftovers != null) {
+                for (File leftover : leftovers) {
+                    Files.deleteIfExists(leftover.toPath());
+                }
+            }
+        }
+    }
+
+    /**
+     * Hard links the file that was just rotated to ".1" into the archive directory. The link survives the logger's
+     * later renames and retention deletes, so normal retention runs and every entry can still be verified.
+     * Runs under the logger's lock, after the pause was timed.
+     */
+    private void linkRotatedFile(Path logDir, Path archiveDir) {
+        Path rotated = logDir.resolve(LOG_FILE_NAME + ".1");
+        try {
+            if (Files.exists(rotated)) {
+                Files.createLink(archiveDir.resolve(LOG_FILE_NAME + ".r" + archivedFiles.incrementAndGet()), rotated);
+            }
+        } catch (IOException e) {
+            archiveFailures.incrementAndGet();
+            System.err.println("Error linking rotated log: " + e.getMessage());
+        }
+    }
+
+    private void sampleHeap() {
+        heapHighWater.accumulateAndGet(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(), Math::max);
+    }
+
+    private void reportInterval(long start, AtomicLong lastReportedCount) {
+        long count = enqueueToDisk.getCount();
+        long windowCount = count - lastReportedCount.getAndSet(count);
+        long heapUsed = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        System.out.println(String.format("[%6ds] %.0f events/s, p99=%.1fus, max=%.1fus, late cycles=%d, rotations=%d, heap=%d MB",
+                                         TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start),
+                                         (double) windowCount / config.getReportIntervalSeconds(),
+                                         micros(intervalEnqueueToDisk.getPercentile(99)),
+                                         micros(intervalEnqueueToDisk.getMax()),
+                                         schedule.getLateCycles(),
+                                         rotationPauses.getCount(),
+                                         heapUsed / (1024 * 1024)));
+        intervalEnqueueToDisk.reset();
+    }
+
+    /**
+     * Reads every written file and checks each collector's sequence numbers against what it emitted.
+     * Backups in the log directory are links to archived files, so only the current file is read from there.
+     */
+    private SequenceVerifier verify(Path logDir, Path archiveDir) throws IOException {
+        long[] emittedCounts = new long[collectors.size()];
+        for (SyntheticCollector collector : collectors) {
+            emittedCounts[collector.getCollectorId()] = collector.getEmittedCount();
+        }
+        SequenceVerifier verifier = new SequenceVerifier(emittedCounts);
+        Path currentLog = logDir.resolve(LOG_FILE_NAME);
+        if (Files.exists(currentLog)) {
+            verifier.scan(currentLog);
+        }
+        File[] archived = archiveDir.toFile().listFiles((d, name) -> name.startsWith(LOG_FILE_NAME));
+        if (archived != null) {
+            for (File file : archived) {
+                verifier.scan(file.toPath());
+            }
+        }
+        return verifier;
+    }
+
+    private void printReport(long elapsedNanos, long gcCount, long gcTimeMillis, long heapHighWater,
+                             SequenceVerifier verification) {
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        System.out.println();
+        System.out.println("=== Soak report ===");
+        System.out.println("Configuration:      " + config);
+        System.out.println(String.format("Elapsed:            %.1f s", elapsedSeconds));
+        System.out.println(String.format("Throughput:         %.0f events/s (target %d events/s)",
+                                         verification.getEmitted() / elapsedSeconds, config.getEventsPerSecond()));
+        System.out.println(String.format("Enqueue-to-disk:    p50=%.1fus p99=%.1fus p999=%.1fus max=%.1fus (from when the cycle was due)",
+                                         micros(enqueueToDisk.getPercentile(50)),
+                                         micros(enqueueToDisk.getPercentile(99)),
+                                         micros(enqueueToDisk.getPercentile(99.9)),
+                                         micros(enqueueToDisk.getMax())));
+        System.out.println(String.format("Service time:       p50=%.1fus p99=%.1fus p999=%.1fus max=%.1fus (single log() call)",
+                                         micros(serviceTime.getPercentile(50)),
+                                         micros(serviceTime.getPercentile(99)),
+                                         micros(serviceTime.getPercentile(99.9)),
+                                         micros(serviceTime.getMax())));
+        LatencyHistogram startLag = schedule.getStartLag();
+        System.out.println(String.format("Cycle start lag:    p50=%.1fus p99=%.1fus max=%.1fus, %d of %d cycles started a full period late",
+                                         micros(startLag.getPercentile(50)),
+                                         micros(startLag.getPercentile(99)),
+                                         micros(startLag.getMax()),
+                                         schedule.getLateCycles(), schedule.getStartedCycles()));
+        System.out.println(String.format("Rotations:          %d, pause p50=%.1fus p99=%.1fus max=%.1fus",
+                                         rotationPauses.getCount(),
+                                         micros(rotationPauses.getPercentile(50)),
+                                         micros(rotationPauses.getPercentile(99)),
+                                         micros(rotationPauses.getMax())));
+        System.out.println(String.format("Harness overhead:   %.1f ms linking rotated files (excluded from enqueue-to-disk)",
+                                         overhead.getTotal() / 1_000_000.0));
+        System.out.println(String.format("GC:                 %d collections, %d ms (%.2f%% of run)",
+                                         gcCount, gcTimeMillis, gcTimeMillis / (elapsedSeconds * 10)));
+        System.out.println(String.format("Heap high-water:    %d MB (used heap, sampled every %d ms)",
+                                         heapHighWater / (1024 * 1024), HEAP_SAMPLE_INTERVAL_MILLIS));
+        System.out.println(String.format("Entries:            emitted=%d written=%d lost=%d duplicated=%d unexpected=%d malformed=%d (%d files)",
+                                         verification.getEmitted(), verification.getWritten(), verification.getLost(),
+                                         verification.getDuplicated(), verification.getUnexpected(), verification.getMalformed(),
+                                         verification.getFilesRead()));
+        if (archiveFailures.get() > 0) {
+            System.out.println("WARNING: " + archiveFailures.get() + " rotated files could not be linked into the archive; "
+                               + "retention may have discarded entries counted as lost.");
+        }
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+
+    private static long totalGcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long totalGcTimeMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,97 @@
+package com.networkmonitoring.soak;
+
+import com.networkmonitoring.collector.DataCollector;
+import com.networkmonitoring.logging.CustomLogger;
+import com.networkmonitoring.logging.LogEntry;
+import com.networkmonitoring.logging.LogLevel;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Data collector used by the soak harness.
+ * Emits a fixed number of entries per collection cycle, each tagged with a per-collector sequence number
+ * ({@code seq=<collectorId>:<n>}) so the written files can be checked for lost or duplicated entries.
+ * All entries of a cycle are due when the cycle is due, and enqueue-to-disk latency is measured from that point;
+ * the duration of the log() call alone is recorded separately as service time.
+ */
+public class SyntheticCollector implements DataCollector {
+    private static final String SEQUENCE_PREFIX = "seq=";
+
+    private final int collectorId;
+    private final String collectorName;
+    private final long eventsPerCycle;
+    private final String padding;
+    private final CycleSchedule schedule;
+    private final HarnessOverhead overhead;
+    private final LatencyHistogram enqueueToDisk;
+    private final LatencyHistogram intervalEnqueueToDisk;
+    private final LatencyHistogram serviceTime;
+    private final AtomicLong emitted = new AtomicLong(); // Next sequence number, i.e. entries handed to the logger
+    private long cycle; // Only touched by the monitor's scheduler thread
+
+    SyntheticCollector(int collectorId, long eventsPerCycle, int messageBytes, CycleSchedule schedule, HarnessOverhead overhead,
+                       LatencyHistogram enqueueToDisk, LatencyHistogram intervalEnqueueToDisk, LatencyHistogram serviceTime) {
+        this.collectorId = collectorId;
+        this.collectorName = "SyntheticCollector-" + collectorId;
+        this.eventsPerCycle = eventsPerCycle;
+        this.schedule = schedule;
+        this.overhead = overhead;
+        this.enqueueToDisk = enqueueToDisk;
+        this.intervalEnqueueToDisk = intervalEnqueueToDisk;
+        this.serviceTime = serviceTime;
+
+        // Pad the message so the whole line (timestamp, level and source included) is close to messageBytes
+        int lineOverhead = 40 + collectorName.length() + SEQUENCE_PREFIX.length() + 20;
+        char[] fill = new char[Math.max(0, messageBytes - lineOverhead)];
+        Arrays.fill(fill, 'x');
+        this.padding = new String(fill);
+    }
+
+    @Override
+    public void collectData(CustomLogger logger) {
+        long currentCycle = cycle++;
+        if (!schedule.isInRun(currentCycle)) {
+            return; // Due after the run window; counting it would overstate throughput
+        }
+        long due = schedule.dueNanos(currentCycle);
+        schedule.cycleStarted(currentCycle, System.nanoTime());
+        overhead.cycleStarted(currentCycle);
+
+        for (long i = 0; i < eventsPerCycle; i++) {
+            if (schedule.isStopped()) {
+                return; // Don't race the logger being closed at the end of the run
+            }
+            long sequence = emitted.get();
+            long overheadBefore = overhead.onThisThread();
+            long enqueued = System.nanoTime();
+            logger.log(new LogEntry(LogLevel.INFO,
+                                    SEQUENCE_PREFIX + collectorId + ":" + sequence + " payload=" + padding,
+                                    collectorName));
+            long written = System.nanoTime();
+            emitted.set(sequence + 1);
+
+            serviceTime.record(written - enqueued - (overhead.onThisThread() - overheadBefore));
+            long sinceDue = written - due - overhead.sinceCycleStart();
+            enqueueToDisk.record(sinceDue);
+            intervalEnqueueToDisk.record(sinceDue);
+        }
+    }
+
+    @Override
+    public String getCollectorName() {
+        return collectorName;
+    }
+
+    public int getCollectorId() {
+        return collectorId;
+    }
+
+    public long getEmittedCount() {
+        return emitted.get();
+    }
+
+    static String getSequencePrefix() {
+        return SEQUENCE_PREFIX;
+    }
+}
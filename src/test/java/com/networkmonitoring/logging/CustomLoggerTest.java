@@ -10,6 +10,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -47,6 +48,16 @@ class CustomLoggerTest {
         }
     }
 
+    // LogRotationConfig only accepts whole megabytes, so override the byte limit for rotation tests
+    private LogRotationConfig smallFileConfig(long maxFileSizeBytes, int maxBackupFiles) {
+        return new LogRotationConfig(logFileName, 1, maxBackupFiles, tempLogDir.toString()) {
+            @Override
+            public long getMaxFileSizeBytes() {
+                return maxFileSizeBytes;
+            }
+        };
+    }
+
     @Test
     void testLogCreation() throws IOException {
         String testMessage = "This is a test log message.";
@@ -67,7 +78,7 @@ class CustomLoggerTest {
     void testLogRotation() throws IOException {
         // Configure for very small file size to trigger rotation quickly
         // 1KB = 1024 bytes. Let's make it even smaller for a single log line to trigger it.
-        config = new LogRotationConfig(logFileName, (long)0.0001, 2, tempLogDir.toString()); // Approx 0.1KB
+        config = smallFileConfig(100, 2); // Approx 0.1KB
         logger.close(); // close previous logger
         logger = new CustomLogger(config);
 
@@ -104,7 +115,7 @@ class CustomLoggerTest {
     @Test
     void testMaxBackupFilesLimit() throws IOException {
         int maxBackups = 2;
-        config = new LogRotationConfig(logFileName, (long)0.0001, maxBackups, tempLogDir.toString()); // 0.1KB, 2 backups
+        config = smallFileConfig(100, maxBackups); // 0.1KB, 2 backups
         logger.close();
         logger = new CustomLogger(config);
 
@@ -136,8 +147,52 @@ class CustomLoggerTest {
         assertFalse(Files.exists(tempLogDir.resolve(logFileName + "." + (maxBackups + 1))), "Oldest backup should be deleted.");
     }
 
+    @Test
+    void testRotationListenerCalledOncePerRotation() throws IOException {
+        // A 1 byte limit makes every write after the first rotate the file
+        config = smallFileConfig(1, 10);
+        logger.close();
+        logger = new CustomLogger(config);
+
+        List<Long> rotationDurations = new ArrayList<>();
+        logger.setRotationListener(rotationDurations::add);
+
+        int linesToLog = 5;
+        for (int i = 1; i <= linesToLog; i++) {
+            logger.info("Listener test line " + i, "ListenerTest");
+        }
+        logger.close();
+
+        assertEquals(linesToLog - 1, rotationDurations.size(), "Listener should be called once per rotation.");
+        for (long duration : rotationDurations) {
+            assertTrue(duration > 0, "Rotation duration should be positive: " + duration);
+        }
+        assertTrue(Files.exists(tempLogDir.resolve(logFileName + "." + (linesToLog - 1))),
+                   "Each rotation should have produced a backup file.");
+    }
+
+    @Test
+    void testFailingRotationListenerDoesNotDropEntries() throws IOException {
+        config = smallFileConfig(1, 10);
+        logger.close();
+        logger = new CustomLogger(config);
+        logger.setRotationListener(nanos -> { throw new IllegalStateException("listener failure"); });
+
+        int linesToLog = 3;
+        for (int i = 1; i <= linesToLog; i++) {
+            logger.info("Failing listener line " + i, "ListenerTest");
+        }
+        logger.close();
+
+        long totalLines = Files.readAllLines(tempLogDir.resolve(logFileName)).size();
+        for (int i = 1; i < linesToLog; i++) {
+            totalLines += Files.readAllLines(tempLogDir.resolve(logFileName + "." + i)).size();
+        }
+        assertEquals(linesToLog, totalLines, "Every entry should be written even when the listener throws.");
+    }
+
      @Test
-    void testMultiThreadedLogging() throws InterruptedException {
+    void testMultiThreadedLogging() throws InterruptedException, IOException {
         int numThreads = 5;
         int logsPerThread = 20;
         // Config for small files to ensure some rotation might occur, but primarily testing concurrent access
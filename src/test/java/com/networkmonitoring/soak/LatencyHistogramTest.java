@@ -0,0 +1,55 @@
+package com.networkmonitoring.soak;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(99), "Percentile of an empty histogram should be 0.");
+    }
+
+    @Test
+    void testPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1000); // 1us .. 100ms
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000L, histogram.getMax());
+        assertWithinPrecision(50_000_000L, histogram.getPercentile(50));
+        assertWithinPrecision(99_000_000L, histogram.getPercentile(99));
+        assertWithinPrecision(99_900_000L, histogram.getPercentile(99.9));
+        assertEquals(histogram.getMax(), histogram.getPercentile(100), "p100 should be capped at the recorded max.");
+    }
+
+    @Test
+    void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 0; i < 32; i++) {
+            histogram.record(i);
+        }
+        assertEquals(15, histogram.getPercentile(50));
+        assertEquals(31, histogram.getPercentile(100));
+    }
+
+    @Test
+    void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(5_000);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(50));
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.04,
+                   "Expected ~" + expected + " (within 4%) but got " + actual);
+    }
+}
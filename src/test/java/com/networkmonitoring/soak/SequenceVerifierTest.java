@@ -0,0 +1,95 @@
+package com.networkmonitoring.soak;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SequenceVerifierTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static String line(int collectorId, long sequence) {
+        return "2026-01-01T00:00:00.000 [INFO] [SyntheticCollector-" + collectorId + "] - seq="
+               + collectorId + ":" + sequence + " payload=xxxx";
+    }
+
+    @Test
+    void testCompleteRunAcrossFiles() throws IOException {
+        Path first = tempDir.resolve("soak.log.r1");
+        Path second = tempDir.resolve("soak.log");
+        Files.write(first, Arrays.asList(line(0, 0), line(1, 0), line(0, 1)));
+        Files.write(second, Arrays.asList("2026-01-01T00:00:01.000 [DEBUG] [NetworkMonitor] - Starting data collection cycle.",
+                                          line(1, 1), line(0, 2)));
+
+        SequenceVerifier verifier = new SequenceVerifier(new long[] {3, 2});
+        verifier.scan(first);
+        verifier.scan(second);
+
+        assertEquals(5, verifier.getEmitted());
+        assertEquals(5, verifier.getWritten());
+        assertEquals(0, verifier.getLost());
+        assertEquals(0, verifier.getDuplicated());
+        assertEquals(0, verifier.getUnexpected());
+        assertEquals(0, verifier.getMalformed());
+        assertEquals(2, verifier.getFilesRead());
+    }
+
+    @Test
+    void testMissingSequenceIsLost() {
+        SequenceVerifier verifier = new SequenceVerifier(new long[] {3});
+        verifier.accept(line(0, 0));
+        verifier.accept(line(0, 2));
+
+        assertEquals(2, verifier.getWritten());
+        assertEquals(1, verifier.getLost());
+        assertEquals(0, verifier.getDuplicated());
+    }
+
+    @Test
+    void testRepeatedSequenceIsDuplicated() {
+        SequenceVerifier verifier = new SequenceVerifier(new long[] {2});
+        verifier.accept(line(0, 0));
+        verifier.accept(line(0, 1));
+        verifier.accept(line(0, 1));
+
+        assertEquals(2, verifier.getWritten());
+        assertEquals(1, verifier.getDuplicated());
+        assertEquals(0, verifier.getLost());
+    }
+
+    @Test
+    void testUnknownCollectorAndOutOfRangeSequenceAreUnexpected() {
+        SequenceVerifier verifier = new SequenceVerifier(new long[] {1});
+        verifier.accept(line(0, 0));
+        verifier.accept(line(5, 0)); // No such collector
+        verifier.accept(line(0, 1)); // Beyond what collector 0 emitted
+
+        assertEquals(1, verifier.getWritten());
+        assertEquals(2, verifier.getUnexpected());
+        assertEquals(0, verifier.getLost());
+    }
+
+    @Test
+    void testMalformedLine() {
+        SequenceVerifier verifier = new SequenceVerifier(new long[] {1});
+        verifier.accept("2026-01-01T00:00:00.000 [INFO] [SyntheticCollector-0] - seq=0:abc payload=xxxx");
+        verifier.accept("2026-01-01T00:00:00.000 [INFO] [SyntheticCollector-0] - seq=0");
+
+        assertEquals(2, verifier.getMalformed());
+        assertEquals(0, verifier.getWritten());
+        assertEquals(1, verifier.getLost());
+    }
+
+    @Test
+    void testRejectsCountsBeyondIntRange() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new SequenceVerifier(new long[] {(long) Integer.MAX_VALUE + 1}));
+    }
+}